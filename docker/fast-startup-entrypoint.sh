@@ -0,0 +1,52 @@
+#!/bin/sh
+# Lancement de l'image `fast-startup` : classes Spring AOT et archive CDS (gdd-api.jsa) produites au build.
+#
+# L'AOT fige au build les beans conditionnels (`@ConditionalOnProperty`) : sharding, archivage, journal
+# d'audit, mouvements récurrents, purge des comptes, et les outils en ligne de commande (migration de
+# shard, jeu de données synthétique, vérification du journal) qui ne sont jamais inclus dans l'image. Les
+# valeurs du build sont relevées dans les variables GDD_AOT_* ; si l'environnement en demande d'autres, on
+# démarre sans AOT plutôt que d'ignorer silencieusement la configuration. APP_AOT_ENABLED=false force le
+# même repli.
+set -eu
+
+aot_enabled="${APP_AOT_ENABLED:-true}"
+aot_mismatch=""
+
+# check <propriété> <valeur demandée> <valeur figée au build>
+check() {
+    if [ "$2" != "$3" ]; then
+        aot_mismatch="$aot_mismatch $1"
+    fi
+}
+
+check app.sharding.enabled "${APP_SHARDING_ENABLED:-false}" "${GDD_AOT_SHARDING_ENABLED:-false}"
+check app.archive.enabled "${APP_ARCHIVE_ENABLED:-false}" "${GDD_AOT_ARCHIVE_ENABLED:-false}"
+check app.audit.enabled "${APP_AUDIT_ENABLED:-false}" "${GDD_AOT_AUDIT_ENABLED:-false}"
+check app.recurring.enabled "${APP_RECURRING_ENABLED:-true}" "${GDD_AOT_RECURRING_ENABLED:-true}"
+check app.account-purge.enabled "${APP_ACCOUNT_PURGE_ENABLED:-true}" "${GDD_AOT_ACCOUNT_PURGE_ENABLED:-true}"
+check app.sharding.migrate.user-ids "${APP_SHARDING_MIGRATE_USER_IDS:-}" ""
+check app.dataset.generate "${APP_DATASET_GENERATE:-false}" false
+check app.audit.verify.directories "${APP_AUDIT_VERIFY_DIRECTORIES:-}" ""
+
+# Les mêmes propriétés passées en argument (--app.audit.enabled=true), dans JAVA_OPTS (-D...) ou en JSON.
+for property in app.sharding.enabled app.archive.enabled app.audit.enabled app.recurring.enabled \
+    app.account-purge.enabled app.sharding.migrate.user-ids app.dataset.generate app.audit.verify.directories; do
+    case " $* ${JAVA_OPTS:-} ${SPRING_APPLICATION_JSON:-} " in
+        *"$property"*) aot_mismatch="$aot_mismatch $property" ;;
+    esac
+done
+
+if [ -n "$aot_mismatch" ]; then
+    echo "Configuration différente de celle figée au build (${aot_mismatch# }) : démarrage sans AOT." >&2
+    aot_enabled=false
+fi
+
+aot_opts=""
+if [ "$aot_enabled" = "true" ]; then
+    aot_opts="-Dspring.aot.enabled=true"
+fi
+
+# -Xshare:auto : une archive qui ne correspond plus (JVM, classpath) est ignorée, le démarrage continue.
+# shellcheck disable=SC2086
+exec java -XX:SharedArchiveFile=/app/gdd-api.jsa -Xshare:auto -Xlog:cds=off -Xlog:cds+dynamic=off \
+    $aot_opts ${JAVA_OPTS:-} -jar /app/gdd-api.jar "$@"
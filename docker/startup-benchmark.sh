@@ -0,0 +1,53 @@
+#!/bin/sh
+# Mesure le temps jusqu'à la première requête réussie : lance la commande donnée, interroge URL toutes les
+# 20 ms jusqu'à une réponse 200, arrête le processus, recommence RUNS fois.
+#
+#   RUNS=5 URL=http://localhost:8080/api/hello docker/startup-benchmark.sh java -jar target/gdd-api.jar
+#   docker/startup-benchmark.sh docker run --rm -p 8080:8080 --env-file gdd.env gdd-api:fast
+#
+# (gdd.env : SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME, SPRING_DATASOURCE_PASSWORD, APP_SECRET_KEY.)
+set -eu
+
+RUNS="${RUNS:-5}"
+URL="${URL:-http://localhost:8080/api/hello}"
+TIMEOUT_MS="${TIMEOUT_MS:-120000}"
+
+now_ms() {
+    date +%s%3N
+}
+
+results=""
+run=1
+while [ "$run" -le "$RUNS" ]; do
+    start=$(now_ms)
+    "$@" > /dev/null 2>&1 &
+    pid=$!
+    elapsed=""
+    while :; do
+        if curl -fsS -o /dev/null "$URL" 2> /dev/null; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        if ! kill -0 "$pid" 2> /dev/null; then
+            break
+        fi
+        if [ $(( $(now_ms) - start )) -gt "$TIMEOUT_MS" ]; then
+            break
+        fi
+        sleep 0.02
+    done
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+    if [ -z "$elapsed" ]; then
+        echo "run $run : pas de réponse 200 (processus arrêté ou délai dépassé)" >&2
+        exit 1
+    fi
+    echo "run $run : ${elapsed} ms"
+    results="$results $elapsed"
+    run=$((run + 1))
+done
+
+echo "$results" | tr ' ' '\n' | grep -v '^$' | sort -n | awk '
+    { values[NR] = $1; sum += $1 }
+    END { printf "médiane %d ms, min %d ms, max %d ms, moyenne %d ms\n",
+          values[int((NR + 1) / 2)], values[1], values[NR], sum / NR }'